@@ -0,0 +1,34 @@
+package com.scaffoldingrental.backend.loadtest;
+
+import java.util.Arrays;
+
+public class EndpointStats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    public synchronized void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public synchronized int getCount() { return count; }
+    public synchronized int getErrors() { return errors; }
+
+    /** Nearest-rank percentile in milliseconds, or 0 when nothing was recorded. */
+    public synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,268 @@
+package com.scaffoldingrental.backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replays the request mix of the frontend's api.js against a backend started with
+ * {@code mvn spring-boot:run -Ploadtest} and prints throughput and p50/p95/p99 latency per endpoint.
+ * Runs in its own JVM on the plain JDK so the client's threads and GC stay out of the server's numbers.
+ * Latency is measured from each request's scheduled start, so queueing behind a slow server is
+ * counted instead of hidden.
+ */
+public class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    // Matches what axios sends from the browser: plain HTTP/1.1 with no h2c upgrade
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final double rate;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int concurrency;
+    private final long seed;
+    // Usernames are unique in the schema, so added employees must not collide with earlier runs
+    private final long runId = System.currentTimeMillis();
+
+    private List<Long> customerIds;
+    private List<Long> employeeIds;
+    private int addedEmployees;
+
+    public LoadTestClient(String baseUrl, double rate, int warmupSeconds, int durationSeconds, int concurrency, long seed) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be greater than 0");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be greater than 0");
+        }
+        if (warmupSeconds < 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("warmup-seconds must be at least 0 and duration-seconds greater than 0");
+        }
+        this.baseUrl = baseUrl;
+        this.rate = rate;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.concurrency = concurrency;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        LoadTestClient loadTest = new LoadTestClient(
+                options.getOrDefault("base-url", "http://localhost:8090"),
+                Double.parseDouble(options.getOrDefault("rate", "50")),
+                Integer.parseInt(options.getOrDefault("warmup-seconds", "10")),
+                Integer.parseInt(options.getOrDefault("duration-seconds", "60")),
+                Integer.parseInt(options.getOrDefault("concurrency", "32")),
+                Long.parseLong(options.getOrDefault("seed", "42")));
+        loadTest.run();
+    }
+
+    public void run() throws IOException, InterruptedException {
+        customerIds = fetchIds("/Customer/all-Customers", "customerId");
+        employeeIds = fetchIds("/employee/get-employee", "employeeId");
+        if (customerIds.isEmpty() || employeeIds.isEmpty()) {
+            throw new IllegalStateException("Backend at " + baseUrl + " has no customers or employees to replay against");
+        }
+        System.out.printf("Load test found %d customers and %d employees at %s%n", customerIds.size(), employeeIds.size(), baseUrl);
+
+        Random random = new Random(seed);
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            System.out.printf("Load test warming up for %ds at %.1f req/s%n", warmupSeconds, rate);
+            replay(workers, random, warmupSeconds, null);
+
+            System.out.printf("Load test measuring for %ds at %.1f req/s%n", durationSeconds, rate);
+            long start = System.nanoTime();
+            replay(workers, random, durationSeconds, stats);
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            printReport(stats, elapsedSeconds);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private List<Long> fetchIds(String path, String idField) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get(path), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = Pattern.compile("\"" + idField + "\":(\\d+)").matcher(response.body());
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private void replay(ExecutorService workers, Random random, int seconds, Map<Operation, EndpointStats> stats) throws InterruptedException {
+        int total = (int) (rate * seconds);
+        long intervalNanos = Math.round(1_000_000_000.0 / rate);
+        CountDownLatch done = new CountDownLatch(total);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < total; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = Operation.pick(random);
+            HttpRequest request = buildRequest(operation, random);
+            workers.execute(() -> {
+                try {
+                    boolean success;
+                    try {
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        // The services answer an unknown id with 200 and an empty body, so that counts as a failure too
+                        success = response.statusCode() < 400 && response.body().length > 0;
+                    } catch (IOException e) {
+                        success = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        success = false;
+                    }
+                    if (stats != null) {
+                        stats.get(operation).record(System.nanoTime() - scheduled, success);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private HttpRequest buildRequest(Operation operation, Random random) {
+        long customerId = customerIds.get(random.nextInt(customerIds.size()));
+        long employeeId = employeeIds.get(random.nextInt(employeeIds.size()));
+        switch (operation) {
+            case LIST_CUSTOMERS:
+                return get("/Customer/all-Customers");
+            case CUSTOMER_COUNT:
+                return get("/Customer/get-Active-Customer-Count");
+            case SEARCH_CUSTOMERS:
+                return get("/Customer/search-Customer?search=" + encode(SampleData.searchTerm(random)));
+            case GET_CUSTOMER:
+                return get("/Customer/Customer/" + customerId);
+            case UPDATE_CUSTOMER_NAME:
+                return put("/Customer/update-Customer-name/" + customerId + "?name=" + encode(SampleData.name(random, random.nextInt(10_000))));
+            case UPDATE_CUSTOMER_EMAIL:
+                return put("/Customer/update-Customer-email/" + customerId + "?email=" + encode("customer" + random.nextInt(10_000) + "@example.com"));
+            case UPDATE_CUSTOMER_PHONE:
+                return put("/Customer/update-Customer-phone/" + customerId + "?phoneNumber=" + SampleData.phone(random));
+            case UPDATE_CUSTOMER_ADDRESS:
+                return putJson("/Customer/update-Customer-address/" + customerId, addressJson(random));
+            case LIST_EMPLOYEES:
+                return get("/employee/get-employee");
+            case SEARCH_EMPLOYEES:
+                return get("/employee/search-employee?search=" + encode(SampleData.searchTerm(random)));
+            case GET_EMPLOYEE:
+                return get("/employee/get-employee/" + employeeId);
+            case UPDATE_EMPLOYEE_ROLE:
+                return put("/employee/update-employee-Role/" + employeeId + "?Role=" + SampleData.role(random));
+            case UPDATE_EMPLOYEE_PHONE:
+                return put("/employee/update-employee-Phone/" + employeeId + "?phone=" + SampleData.phone(random));
+            case UPDATE_EMPLOYEE_EMAIL:
+                return put("/employee/update-employee-Email/" + employeeId + "?email=" + encode("employee" + random.nextInt(10_000) + "@example.com"));
+            case ADD_EMPLOYEE:
+                return postJson("/employee/add-employee", newEmployeeJson(random));
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+
+    // Generated values only use letters, digits, spaces, '@' and '.', so no JSON escaping is needed
+    private static String addressJson(Random random) {
+        return String.format("{\"houseNo\":\"%s\",\"street\":\"%s\",\"city\":\"%s\"}",
+                SampleData.houseNo(random), SampleData.street(random), SampleData.city(random));
+    }
+
+    private String newEmployeeJson(Random random) {
+        int n = addedEmployees++;
+        return String.format("{\"name\":\"%s\",\"nic\":\"%s\",\"email\":\"%s\",\"phoneNumber\":\"%s\",\"address\":%s,"
+                        + "\"role\":\"Clerk\",\"username\":\"%s\",\"password\":\"password\"}",
+                SampleData.name(random, n), SampleData.nic(random), "new-employee" + n + "@example.com",
+                SampleData.phone(random), addressJson(random), "loadtest-user-" + runId + "-" + n);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private HttpRequest put(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT)
+                .PUT(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest putJson(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest postJson(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private void printReport(Map<Operation, EndpointStats> stats, double elapsedSeconds) {
+        String format = "%-42s %7s %7s %9s %9s %9s %9s%n";
+        System.out.println();
+        System.out.printf(format, "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        int count = 0;
+        int errors = 0;
+        for (Operation operation : Operation.values()) {
+            EndpointStats endpoint = stats.get(operation);
+            count += endpoint.getCount();
+            errors += endpoint.getErrors();
+            System.out.printf(format, operation.getLabel(), endpoint.getCount(), endpoint.getErrors(),
+                    String.format("%.1f", endpoint.getCount() / elapsedSeconds),
+                    String.format("%.2f", endpoint.percentileMillis(50)),
+                    String.format("%.2f", endpoint.percentileMillis(95)),
+                    String.format("%.2f", endpoint.percentileMillis(99)));
+        }
+        System.out.printf("%nTotal: %d requests, %d errors in %.1fs = %.1f req/s (target %.1f req/s)%n",
+                count, errors, elapsedSeconds, count / elapsedSeconds, rate);
+    }
+}
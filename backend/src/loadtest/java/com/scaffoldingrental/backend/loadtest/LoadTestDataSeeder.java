@@ -0,0 +1,106 @@
+package com.scaffoldingrental.backend.loadtest;
+
+import com.scaffoldingrental.backend.model.Address;
+import com.scaffoldingrental.backend.model.Customer;
+import com.scaffoldingrental.backend.model.Employee;
+import com.scaffoldingrental.backend.repository.AddressRepository;
+import com.scaffoldingrental.backend.repository.CustomerRepository;
+import com.scaffoldingrental.backend.repository.EmployeeRepository;
+import org.mindrot.jbcrypt.BCrypt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds the embedded database once all beans exist, which is before the web server starts
+ * accepting requests, so a client can never observe a partially seeded database.
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestDataSeeder implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Value("${loadtest.customers}")
+    private int customerCount;
+
+    @Value("${loadtest.employees}")
+    private int employeeCount;
+
+    @Value("${loadtest.seed}")
+    private long seed;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // By-id calls against a missing row return 200 with an empty body and would pass as fast successes
+        if (customerCount < 1 || employeeCount < 1) {
+            throw new IllegalStateException("loadtest.customers and loadtest.employees must both be at least 1");
+        }
+        Random random = new Random(seed);
+        List<Address> customerAddresses = addressRepository.saveAll(randomAddresses(random, customerCount));
+
+        List<Customer> customers = new ArrayList<>(customerCount);
+        for (int i = 0; i < customerCount; i++) {
+            Customer customer = new Customer();
+            customer.setName(SampleData.name(random, i));
+            customer.setNic(SampleData.nic(random));
+            customer.setEmail("customer" + i + "@example.com");
+            customer.setPhoneNumber(SampleData.phone(random));
+            customer.setAddress(customerAddresses.get(i));
+            customer.setFirstDateDeal(LocalDate.of(2020, 1, 1).plusDays(random.nextInt(1500)));
+            customer.setLastDateDeal(customer.getFirstDateDeal().plusDays(random.nextInt(365)));
+            customers.add(customer);
+        }
+        customerRepository.saveAll(customers);
+
+        // Hashing once keeps seeding fast; the replay still pays the BCrypt cost on add-employee
+        String password = BCrypt.hashpw("password", BCrypt.gensalt());
+        List<Address> employeeAddresses = addressRepository.saveAll(randomAddresses(random, employeeCount));
+        List<Employee> employees = new ArrayList<>(employeeCount);
+        for (int i = 0; i < employeeCount; i++) {
+            Employee employee = new Employee();
+            employee.setName(SampleData.name(random, i));
+            employee.setNic(SampleData.nic(random));
+            employee.setEmail("employee" + i + "@example.com");
+            employee.setPhoneNumber(SampleData.phone(random));
+            employee.setAddress(employeeAddresses.get(i));
+            employee.setRole(Employee.Role.valueOf(SampleData.role(random)));
+            employee.setUsername("employee" + i);
+            employee.setPassword(password);
+            employees.add(employee);
+        }
+        employeeRepository.saveAll(employees);
+
+        log.info("Load test seeded {} customers and {} employees", customerCount, employeeCount);
+    }
+
+    private static List<Address> randomAddresses(Random random, int count) {
+        List<Address> addresses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Address address = new Address();
+            address.setHouseNo(SampleData.houseNo(random));
+            address.setStreet(SampleData.street(random));
+            address.setCity(SampleData.city(random));
+            addresses.add(address);
+        }
+        return addresses;
+    }
+}
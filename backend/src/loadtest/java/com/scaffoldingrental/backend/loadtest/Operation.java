@@ -0,0 +1,61 @@
+package com.scaffoldingrental.backend.loadtest;
+
+import java.util.Random;
+
+/** The api.js calls replayed by {@link LoadTestClient}, weighted by how often the frontend makes them. */
+public enum Operation {
+    LIST_CUSTOMERS("GET /Customer/all-Customers", 10),
+    CUSTOMER_COUNT("GET /Customer/get-Active-Customer-Count", 5),
+    SEARCH_CUSTOMERS("GET /Customer/search-Customer", 12),
+    GET_CUSTOMER("GET /Customer/Customer/{id}", 20),
+    UPDATE_CUSTOMER_NAME("PUT /Customer/update-Customer-name", 4),
+    UPDATE_CUSTOMER_EMAIL("PUT /Customer/update-Customer-email", 4),
+    UPDATE_CUSTOMER_PHONE("PUT /Customer/update-Customer-phone", 3),
+    UPDATE_CUSTOMER_ADDRESS("PUT /Customer/update-Customer-address", 2),
+    LIST_EMPLOYEES("GET /employee/get-employee", 8),
+    SEARCH_EMPLOYEES("GET /employee/search-employee", 8),
+    GET_EMPLOYEE("GET /employee/get-employee/{id}", 12),
+    UPDATE_EMPLOYEE_ROLE("PUT /employee/update-employee-Role", 3),
+    UPDATE_EMPLOYEE_PHONE("PUT /employee/update-employee-Phone", 3),
+    UPDATE_EMPLOYEE_EMAIL("PUT /employee/update-employee-Email", 2),
+    ADD_EMPLOYEE("POST /employee/add-employee", 4);
+
+    static final int TOTAL_WEIGHT;
+
+    static {
+        int total = 0;
+        for (Operation operation : values()) {
+            total += operation.weight;
+        }
+        TOTAL_WEIGHT = total;
+    }
+
+    private final String label;
+    private final int weight;
+
+    Operation(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    public String getLabel() { return label; }
+    public int getWeight() { return weight; }
+
+    public static Operation pick(Random random) {
+        return forRoll(random.nextInt(TOTAL_WEIGHT));
+    }
+
+    /** Maps a roll in {@code [0, TOTAL_WEIGHT)} onto the operation owning that slice of the weights. */
+    static Operation forRoll(int roll) {
+        if (roll < 0 || roll >= TOTAL_WEIGHT) {
+            throw new IllegalArgumentException("Roll " + roll + " is outside [0, " + TOTAL_WEIGHT + ")");
+        }
+        for (Operation operation : values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Operation weights are inconsistent");
+    }
+}
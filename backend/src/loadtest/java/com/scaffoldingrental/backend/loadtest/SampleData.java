@@ -0,0 +1,55 @@
+package com.scaffoldingrental.backend.loadtest;
+
+import java.util.Random;
+
+/**
+ * Generators shared by the seeder and the load-test client. Kept free of Spring and JPA
+ * types so the client can run on the plain JDK.
+ */
+public final class SampleData {
+
+    static final String[] FIRST_NAMES = {"Nimal", "Kamal", "Sunil", "Amara", "Dilani", "Ruwan", "Chamari", "Saman", "Tharindu", "Ishara"};
+    static final String[] LAST_NAMES = {"Perera", "Silva", "Fernando", "Jayasinghe", "Bandara", "Wijesinghe", "Dissanayake", "Gunawardena"};
+    static final String[] CITIES = {"Colombo", "Kandy", "Galle", "Matara", "Negombo", "Kurunegala"};
+    static final String[] ROLES = {"Manager", "Clerk", "Delivery", "Admin"};
+
+    private SampleData() {
+    }
+
+    static String name(Random random, int i) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i;
+    }
+
+    static String nic(Random random) {
+        return String.format("%09dV", random.nextInt(1_000_000_000));
+    }
+
+    static String phone(Random random) {
+        return String.format("07%08d", random.nextInt(100_000_000));
+    }
+
+    static String houseNo(Random random) {
+        return String.valueOf(1 + random.nextInt(500));
+    }
+
+    static String street(Random random) {
+        return LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " Mawatha";
+    }
+
+    static String city(Random random) {
+        return CITIES[random.nextInt(CITIES.length)];
+    }
+
+    static String role(Random random) {
+        return ROLES[random.nextInt(ROLES.length)];
+    }
+
+    /** Surname fragments and NIC prefixes, as typed into the list page search boxes. */
+    static String searchTerm(Random random) {
+        if (random.nextBoolean()) {
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            return lastName.substring(0, 3 + random.nextInt(lastName.length() - 2)).toLowerCase();
+        }
+        return String.valueOf(random.nextInt(1000));
+    }
+}
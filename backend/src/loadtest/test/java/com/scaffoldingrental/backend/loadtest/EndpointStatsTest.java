@@ -0,0 +1,52 @@
+package com.scaffoldingrental.backend.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndpointStatsTest {
+
+    @Test
+    void emptyStatsReportZero() {
+        EndpointStats stats = new EndpointStats();
+
+        assertThat(stats.getCount()).isZero();
+        assertThat(stats.percentileMillis(50)).isZero();
+        assertThat(stats.percentileMillis(99)).isZero();
+    }
+
+    @Test
+    void percentilesUseNearestRank() {
+        EndpointStats stats = new EndpointStats();
+        // Recorded out of order, 1..100 ms
+        for (int ms = 100; ms >= 1; ms--) {
+            stats.record(ms * 1_000_000L, true);
+        }
+
+        assertThat(stats.percentileMillis(50)).isEqualTo(50.0);
+        assertThat(stats.percentileMillis(95)).isEqualTo(95.0);
+        assertThat(stats.percentileMillis(99)).isEqualTo(99.0);
+        assertThat(stats.percentileMillis(100)).isEqualTo(100.0);
+        assertThat(stats.percentileMillis(0)).isEqualTo(1.0);
+    }
+
+    @Test
+    void singleSampleIsEveryPercentile() {
+        EndpointStats stats = new EndpointStats();
+        stats.record(7_500_000L, true);
+
+        assertThat(stats.percentileMillis(50)).isEqualTo(7.5);
+        assertThat(stats.percentileMillis(99)).isEqualTo(7.5);
+    }
+
+    @Test
+    void growsPastInitialCapacityAndCountsErrors() {
+        EndpointStats stats = new EndpointStats();
+        for (int i = 0; i < 5000; i++) {
+            stats.record(1_000_000L, i % 10 != 0);
+        }
+
+        assertThat(stats.getCount()).isEqualTo(5000);
+        assertThat(stats.getErrors()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,51 @@
+package com.scaffoldingrental.backend.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class OperationTest {
+
+    @Test
+    void eachRollMapsToTheOperationOwningThatSlice() {
+        Map<Operation, Integer> hits = new EnumMap<>(Operation.class);
+        for (int roll = 0; roll < Operation.TOTAL_WEIGHT; roll++) {
+            hits.merge(Operation.forRoll(roll), 1, Integer::sum);
+        }
+
+        for (Operation operation : Operation.values()) {
+            assertThat(hits.get(operation)).as(operation.name()).isEqualTo(operation.getWeight());
+        }
+        assertThat(Operation.forRoll(0)).isEqualTo(Operation.values()[0]);
+        Operation[] operations = Operation.values();
+        assertThat(Operation.forRoll(Operation.TOTAL_WEIGHT - 1)).isEqualTo(operations[operations.length - 1]);
+    }
+
+    @Test
+    void rollsOutsideTheWeightsAreRejected() {
+        assertThatThrownBy(() -> Operation.forRoll(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Operation.forRoll(Operation.TOTAL_WEIGHT)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pickFollowsTheWeightsAndIsReproducible() {
+        Random random = new Random(42);
+        Map<Operation, Integer> hits = new EnumMap<>(Operation.class);
+        int draws = 100_000;
+        for (int i = 0; i < draws; i++) {
+            hits.merge(Operation.pick(random), 1, Integer::sum);
+        }
+
+        for (Operation operation : Operation.values()) {
+            double expected = (double) operation.getWeight() / Operation.TOTAL_WEIGHT;
+            assertThat(hits.get(operation) / (double) draws).as(operation.name()).isCloseTo(expected, within(0.01));
+        }
+        assertThat(Operation.pick(new Random(7))).isEqualTo(Operation.pick(new Random(7)));
+    }
+}